@@ -0,0 +1,192 @@
+import javafx.scene.CacheHint;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.ImagePattern;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Screen;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.GraphicsDevice;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Static background below the pucks. The image is decoded once at the exact pixel size it occupies on the graphics
+ * device, so drawing it is a plain 1:1 copy and only the regions the pucks cover or uncover are recomposited,
+ * instead of re-sampling the full source image across the whole scene on every frame.
+ */
+public class BackgroundLayer {
+    private @NotNull static final Logger LOGGER = LogManager.getLogger(BackgroundLayer.class);
+
+    private @NotNull final Group node = new Group();
+    private @NotNull final GraphicsDevice graphicsDevice;
+    private @NotNull final BackgroundMode backgroundMode;
+    private double width;
+    private double height;
+    private double outputScale;
+
+    public BackgroundLayer(@NotNull GraphicsDevice graphicsDevice, @NotNull BackgroundMode backgroundMode) {
+        this.graphicsDevice = graphicsDevice;
+        this.backgroundMode = backgroundMode;
+    }
+
+    public @NotNull Node getNode() {
+        return this.node;
+    }
+
+    /**
+     * @param imageFile the new background image or {@code null} to clear the background.
+     */
+    public void setImage(@Nullable File imageFile) {
+        this.node.getChildren().clear();
+
+        if (imageFile == null) {
+            return;
+        }
+
+        // Use the size and render scale JavaFX itself applies to the configured screen; AWT may disagree. The stage
+        // bounds are unreliable here since fullscreen is applied asynchronously and the window may span a whole wall.
+        java.awt.Rectangle graphicsBounds = this.graphicsDevice.getDefaultConfiguration().getBounds();
+        Screen screen = Screen.getScreensForRectangle(graphicsBounds.getX(), graphicsBounds.getY(), 1, 1)
+                .stream()
+                .findFirst()
+                .orElse(Screen.getPrimary());
+        this.width = screen.getBounds().getWidth();
+        this.height = screen.getBounds().getHeight();
+        this.outputScale = screen.getOutputScaleX();
+
+        Node layer = (this.backgroundMode == BackgroundMode.TILE)
+                ? this.createTiledLayer(imageFile)
+                : this.createScaledLayer(imageFile);
+        if (layer != null) {
+            this.node.getChildren().add(layer);
+            LOGGER.info("Prepared {} background from \"{}\" for {}x{} pixels.",
+                    this.backgroundMode, imageFile.getAbsolutePath(), this.width * this.outputScale,
+                    this.height * this.outputScale);
+        }
+    }
+
+    private @Nullable Node createScaledLayer(@NotNull File imageFile) {
+        double[] sourceSize = readImageSize(imageFile);
+        double sourceWidth = (sourceSize != null) ? sourceSize[0] : this.width;
+        double sourceHeight = (sourceSize != null) ? sourceSize[1] : this.height;
+
+        // Logical size of the displayed image.
+        double targetWidth = this.width;
+        double targetHeight = this.height;
+        switch (this.backgroundMode) {
+            case FIT, FILL -> {
+                double scale = (this.backgroundMode == BackgroundMode.FIT)
+                        ? Math.min(this.width / sourceWidth, this.height / sourceHeight)
+                        : Math.max(this.width / sourceWidth, this.height / sourceHeight);
+                targetWidth = sourceWidth * scale;
+                targetHeight = sourceHeight * scale;
+            }
+            case STRETCH -> {
+                // Use the whole screen.
+            }
+            default -> {
+                LOGGER.error("Cannot scale background for unknown mode \"{}\"", this.backgroundMode);
+                throw new IllegalArgumentException("Unknown background mode \"" + this.backgroundMode + "\"");
+            }
+        }
+
+        // Decode straight to device pixels.
+        var image = new Image(imageFile.toURI().toString(),
+                Math.round(targetWidth * this.outputScale),
+                Math.round(targetHeight * this.outputScale),
+                false,
+                true);
+        if (image.isError()) {
+            LOGGER.error("Failed to load background image \"{}\".", imageFile.getAbsolutePath(), image.getException());
+            return null;
+        }
+
+        // Crop (FILL) once to the visible part of the screen, so the cached layer never exceeds the screen size.
+        int visiblePixelWidth = (int) Math.min(image.getWidth(), Math.round(this.width * this.outputScale));
+        int visiblePixelHeight = (int) Math.min(image.getHeight(), Math.round(this.height * this.outputScale));
+        Image visibleImage = image;
+        if (visiblePixelWidth < image.getWidth() || visiblePixelHeight < image.getHeight()) {
+            PixelReader pixelReader = image.getPixelReader();
+            if (pixelReader == null) {
+                LOGGER.error("Cannot read the pixels of background image \"{}\".", imageFile.getAbsolutePath());
+                return null;
+            }
+
+            visibleImage = new WritableImage(pixelReader,
+                    (int) (image.getWidth() - visiblePixelWidth) / 2,
+                    (int) (image.getHeight() - visiblePixelHeight) / 2,
+                    visiblePixelWidth,
+                    visiblePixelHeight);
+        }
+
+        // Letterbox (FIT) around the center of the screen.
+        var imageView = new ImageView(visibleImage);
+        double visibleWidth = visiblePixelWidth / this.outputScale;
+        double visibleHeight = visiblePixelHeight / this.outputScale;
+        imageView.setFitWidth(visibleWidth);
+        imageView.setFitHeight(visibleHeight);
+        imageView.setX((this.width - visibleWidth) / 2);
+        imageView.setY((this.height - visibleHeight) / 2);
+
+        return imageView;
+    }
+
+    private @Nullable Node createTiledLayer(@NotNull File imageFile) {
+        var image = new Image(imageFile.toURI().toString());
+        if (image.isError()) {
+            LOGGER.error("Failed to load background image \"{}\".", imageFile.getAbsolutePath(), image.getException());
+            return null;
+        }
+
+        // Tiles keep their native pixel size; render the repeated pattern once and reuse it from the cache.
+        var tiles = new Rectangle(0, 0, this.width, this.height);
+        tiles.setFill(new ImagePattern(image,
+                0,
+                0,
+                image.getWidth() / this.outputScale,
+                image.getHeight() / this.outputScale,
+                false));
+        tiles.setCache(true);
+        tiles.setCacheHint(CacheHint.QUALITY);
+
+        return tiles;
+    }
+
+    /**
+     * Reads the pixel dimensions from the image header without decoding the image.
+     *
+     * @return width and height or {@code null} if the dimensions could not be determined.
+     */
+    private static double @Nullable [] readImageSize(@NotNull File imageFile) {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(imageFile)) {
+            Iterator<ImageReader> readers = (inputStream != null) ? ImageIO.getImageReaders(inputStream) : null;
+            if (readers == null || !readers.hasNext()) {
+                LOGGER.warn("No image reader for \"{}\", falling back to stretching.", imageFile.getAbsolutePath());
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream);
+                return new double[]{reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException ioe) {
+            LOGGER.warn("Could not read the size of \"{}\", falling back to stretching.", imageFile.getAbsolutePath(), ioe);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+public enum BackgroundMode {
+    STRETCH,
+    FIT,
+    FILL,
+    TILE
+}
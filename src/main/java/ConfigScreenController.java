@@ -2,6 +2,7 @@ import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
+import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.control.Slider;
@@ -33,6 +34,7 @@ public class ConfigScreenController {
     private @FXML AnchorPane topAnchor;
     private @FXML ImageView afkImageView;
     private @FXML TextField backgroundImageField;
+    private @FXML ChoiceBox<BackgroundMode> backgroundModeChoiceBox;
     private @FXML Slider primaryPuckSizeSlider;
     private @FXML CheckBox secondaryPuckCheckBox;
     private @FXML HBox secondaryPuckSizeHBox;
@@ -69,6 +71,9 @@ public class ConfigScreenController {
                     () -> this.backgroundImageField.clear());
         });
 
+        this.backgroundModeChoiceBox.setItems(FXCollections.observableArrayList(BackgroundMode.values()));
+        this.backgroundModeChoiceBox.getSelectionModel().select(BackgroundMode.STRETCH);
+
         this.afkImageView.setFitWidth(this.afkImageView.getImage().getWidth() * Constants.AFK_LOGO_DEFAULT_SIZE_MULTIPLIER);
         this.afkImageView.setFitHeight(this.afkImageView.getImage().getHeight() * Constants.AFK_LOGO_DEFAULT_SIZE_MULTIPLIER);
         this.primaryPuckSizeSlider.valueProperty().addListener((observable, oldValue, newValue) -> {
@@ -143,6 +148,7 @@ public class ConfigScreenController {
                 this.callback.onConfigurationComplete(
                         new ScreenSaverConfiguration(
                                 this.backgroundImage,
+                                this.backgroundModeChoiceBox.getValue(),
                                 this.resolutionList.getSelectionModel().getSelectedItem(),
                                 this.primaryPuckSizeSlider.getValue(),
                                 this.secondaryPuckCheckBox.isSelected(),
@@ -5,4 +5,12 @@ public class Constants {
     public static final double AFK_LOGO_DEFAULT_SIZE_MULTIPLIER = 0.15;
     public static final int DEFAULT_PIXELS_TO_TRAVERSE_PER_SECOND = 300;
     public static final Color DEFAULT_SCREENSAVER_BACKGROUND_COLOR = Color.BLACK;
+
+    // Synchronized video wall.
+    public static final String SYNC_DEFAULT_GROUP = "239.255.42.99";
+    public static final int SYNC_DEFAULT_PORT = 4446;
+    public static final int SYNC_MULTICAST_TTL = 1;
+    public static final long SYNC_SNAPSHOT_INTERVAL_MILLIS = 100;
+    public static final int SYNC_CLOCK_OFFSET_WINDOW = 64;
+    public static final long SYNC_CORRECTION_NANOS = 150_000_000L;
 }
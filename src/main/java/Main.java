@@ -2,6 +2,6 @@ import javafx.application.Application;
 
 public class Main {
     public static void main(String[] args){
-        Application.launch(StageManager.class);
+        Application.launch(StageManager.class, args);
     }
 }
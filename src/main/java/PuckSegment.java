@@ -0,0 +1,59 @@
+import javafx.geometry.Point2D;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One straight-line move of a puck from wall to wall, i.e. exactly what a single {@code TranslateTransition}
+ * animates. Times are given in nanoseconds on the clock of the coordinator.
+ */
+public record PuckSegment(int puckId,
+                          double startX,
+                          double startY,
+                          double endX,
+                          double endY,
+                          double width,
+                          double height,
+                          long startNanos,
+                          long durationNanos) {
+    public static final int BYTES = 1 + 6 * Double.BYTES + 2 * Long.BYTES;
+
+    public long endNanos() {
+        return this.startNanos + this.durationNanos;
+    }
+
+    public @NotNull Point2D positionAt(long nanos) {
+        double progress = (this.durationNanos <= 0)
+                ? 1.0
+                : Math.min(1.0, Math.max(0.0, (double) (nanos - this.startNanos) / this.durationNanos));
+
+        return new Point2D(
+                this.startX + (this.endX - this.startX) * progress,
+                this.startY + (this.endY - this.startY) * progress);
+    }
+
+    public void writeTo(@NotNull ByteBuffer buffer) {
+        buffer.put((byte) this.puckId);
+        buffer.putDouble(this.startX);
+        buffer.putDouble(this.startY);
+        buffer.putDouble(this.endX);
+        buffer.putDouble(this.endY);
+        buffer.putDouble(this.width);
+        buffer.putDouble(this.height);
+        buffer.putLong(this.startNanos);
+        buffer.putLong(this.durationNanos);
+    }
+
+    public static @NotNull PuckSegment readFrom(@NotNull ByteBuffer buffer) {
+        return new PuckSegment(
+                buffer.get(),
+                buffer.getDouble(),
+                buffer.getDouble(),
+                buffer.getDouble(),
+                buffer.getDouble(),
+                buffer.getDouble(),
+                buffer.getDouble(),
+                buffer.getLong(),
+                buffer.getLong());
+    }
+}
@@ -2,6 +2,7 @@ import java.awt.GraphicsDevice;
 import java.io.File;
 
 public record ScreenSaverConfiguration(File backgroundImage,
+                                       BackgroundMode backgroundMode,
                                        GraphicsDevice graphicsDevice,
                                        double primaryPuckSizeMultiplier,
                                        boolean secondaryPuck,
@@ -4,10 +4,8 @@ import javafx.application.Platform;
 import javafx.geometry.Point2D;
 import javafx.scene.Group;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
@@ -18,6 +16,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 
 public class Screensaver {
@@ -29,30 +28,45 @@ public class Screensaver {
     private @NotNull
     final ScreenSaverConfiguration screenSaverConfiguration;
     private @NotNull
+    final SyncConfiguration syncConfiguration;
+    private @NotNull
     final Rectangle boundingBox;
     private @NotNull
     final Puck primaryPuck;
     private @Nullable Puck secondaryPuck;
+    private @NotNull
+    final BackgroundLayer backgroundLayer;
+    private @Nullable SyncCoordinator syncCoordinator;
+    private @Nullable SyncFollower syncFollower;
 
     private int pixelsToTraversePerSecond = Constants.DEFAULT_PIXELS_TO_TRAVERSE_PER_SECOND;
 
 
     public Screensaver(@NotNull Stage stage, @NotNull ScreenSaverConfiguration screenSaverConfiguration) {
+        this(stage, screenSaverConfiguration, SyncConfiguration.standalone());
+    }
+
+    public Screensaver(@NotNull Stage stage,
+                       @NotNull ScreenSaverConfiguration screenSaverConfiguration,
+                       @NotNull SyncConfiguration syncConfiguration) {
         this.stage = stage;
         this.screenSaverConfiguration = screenSaverConfiguration;
+        this.syncConfiguration = syncConfiguration;
         java.awt.Rectangle graphicsBounds = this.screenSaverConfiguration.graphicsDevice().getDefaultConfiguration().getBounds();
 
         // Basic stage configuration.
         stage.setX(graphicsBounds.getX());
         stage.setY(graphicsBounds.getY());
         stage.setTitle("AFK Screensaver");
+        this.backgroundLayer = new BackgroundLayer(this.screenSaverConfiguration.graphicsDevice(),
+                this.screenSaverConfiguration.backgroundMode());
 
-        // Initialize bounding box and puck(s).
+        // Initialize bounding box and puck(s). On a video wall the bounding box spans all displays.
         this.boundingBox = new Rectangle(
                 0,
                 0,
-                graphicsBounds.getWidth(),
-                graphicsBounds.getHeight());
+                (syncConfiguration.wallWidth() > 0) ? syncConfiguration.wallWidth() : graphicsBounds.getWidth(),
+                (syncConfiguration.wallHeight() > 0) ? syncConfiguration.wallHeight() : graphicsBounds.getHeight());
         this.primaryPuck = new Puck(this.boundingBox,
                 getClass().getResource(Constants.AFK_LOGO_PATH),
                 this.screenSaverConfiguration.primaryPuckSizeMultiplier());
@@ -77,7 +91,11 @@ public class Screensaver {
             group.getChildren().add(this.secondaryPuck.getEncompassingRect());
         }
 
-        var scene = new Scene(group);
+        // Only show this display's slice of the bounding box.
+        group.setTranslateX(-this.syncConfiguration.viewportX());
+        group.setTranslateY(-this.syncConfiguration.viewportY());
+
+        var scene = new Scene(new Group(this.backgroundLayer.getNode(), group));
         scene.setFill(Constants.DEFAULT_SCREENSAVER_BACKGROUND_COLOR);
 
         // Configure stage.
@@ -88,11 +106,41 @@ public class Screensaver {
         // Configure background.
         if (screenSaverConfiguration.backgroundImage() != null) {
             LOGGER.info("Selected background image file: {}", screenSaverConfiguration.backgroundImage().getAbsolutePath());
-            scene.setFill(new ImagePattern(new Image(screenSaverConfiguration.backgroundImage().toURI().toString())));
+            this.backgroundLayer.setImage(screenSaverConfiguration.backgroundImage());
         }
 
         this.attachHandlers(scene);
 
+        if (this.syncConfiguration.role() == SyncRole.FOLLOWER) {
+            // The coordinator owns the simulation, we merely render it.
+            this.syncFollower = new SyncFollower(this.syncConfiguration, this.boundingBox,
+                    this.primaryPuck, this.secondaryPuck);
+            try {
+                this.syncFollower.start();
+                return;
+            } catch (IOException ioe) {
+                LOGGER.error("Failed to join sync group {}:{}; running standalone.",
+                        this.syncConfiguration.group().getHostAddress(), this.syncConfiguration.port(), ioe);
+                this.syncFollower.stop();
+                this.syncFollower = null;
+                this.primaryPuck.getEncompassingRect().setVisible(true);
+                if (this.secondaryPuck != null) {
+                    this.secondaryPuck.getEncompassingRect().setVisible(true);
+                }
+            }
+        }
+
+        if (this.syncConfiguration.role() == SyncRole.COORDINATOR) {
+            this.syncCoordinator = new SyncCoordinator(this.syncConfiguration, this.boundingBox);
+            try {
+                this.syncCoordinator.start();
+            } catch (IOException ioe) {
+                LOGGER.error("Failed to open sync socket for {}:{}; running standalone.",
+                        this.syncConfiguration.group().getHostAddress(), this.syncConfiguration.port(), ioe);
+                this.syncCoordinator = null;
+            }
+        }
+
         // Actual start procedure.
         var primaryThread = new Thread(() -> Screensaver.this.launchPuck(Screensaver.this.primaryPuck));
         primaryThread.start();
@@ -105,6 +153,15 @@ public class Screensaver {
     }
 
     private void attachHandlers(@NotNull Scene scene) {
+        stage.setOnHidden(windowEvent -> {
+            if (this.syncCoordinator != null) {
+                this.syncCoordinator.stop();
+            }
+            if (this.syncFollower != null) {
+                this.syncFollower.stop();
+            }
+        });
+
         stage.addEventFilter(KeyEvent.KEY_PRESSED, keyEvent -> {
             switch (keyEvent.getCode()) {
                 case UP -> this.pixelsToTraversePerSecond += 20; // TODO Small information overlay.
@@ -122,9 +179,10 @@ public class Screensaver {
 
                     if (selectedBackgroundFile != null) {
                         LOGGER.info("Selected background image file: {}", selectedBackgroundFile.getAbsolutePath());
-                        scene.setFill(new ImagePattern(new Image(selectedBackgroundFile.toURI().toString())));
+                        this.backgroundLayer.setImage(selectedBackgroundFile);
                     } else {
                         LOGGER.info("No background image selected. Clearing the background.");
+                        this.backgroundLayer.setImage(null);
                         scene.setFill(Color.BLACK);
                     }
                 }
@@ -157,6 +215,18 @@ public class Screensaver {
         transition.setToX(collisionLTCoord.getX() - puck.getEncompassingRect().getX());
         transition.setToY(collisionLTCoord.getY() - puck.getEncompassingRect().getY());
         transition.setInterpolator(Interpolator.LINEAR);
+        if (this.syncCoordinator != null) {
+            this.syncCoordinator.publishSegment(new PuckSegment(
+                    (puck == this.primaryPuck) ? 0 : 1,
+                    puck.getEncompassingRect().getX(),
+                    puck.getEncompassingRect().getY(),
+                    collisionLTCoord.getX(),
+                    collisionLTCoord.getY(),
+                    puck.getEncompassingRect().getWidth(),
+                    puck.getEncompassingRect().getHeight(),
+                    System.nanoTime(),
+                    (long) (transition.getDuration().toMillis() * 1_000_000L)));
+        }
         transition.setOnFinished(e -> {
             // Move to new position.
             puck.getEncompassingRect().setX(puck.getEncompassingRect().getX() + transition.getToX());
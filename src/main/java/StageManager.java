@@ -25,8 +25,17 @@ public class StageManager extends Application {
             Parent configRoot = fxmlLoader.load();
             ConfigScreenController configScreenController = fxmlLoader.getController();
 
+            SyncConfiguration syncConfiguration;
+            try {
+                syncConfiguration = SyncConfiguration.fromParameters(getParameters().getNamed());
+            } catch (IllegalArgumentException iae) {
+                LOGGER.error("Invalid video wall parameters, running standalone.", iae);
+                syncConfiguration = SyncConfiguration.standalone();
+            }
+            SyncConfiguration finalSyncConfiguration = syncConfiguration;
+
             configScreenController.setMainControllerCallback(screenSaverConfiguration -> {
-                var screensaver = new Screensaver(stage, screenSaverConfiguration);
+                var screensaver = new Screensaver(stage, screenSaverConfiguration, finalSyncConfiguration);
                 screensaver.launchScreensaver();
             });
 
@@ -0,0 +1,110 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Settings for driving several screensaver processes as one video wall. The wall is a virtual bounding box of
+ * {@code wallWidth} x {@code wallHeight} pixels of which every process renders the slice starting at
+ * ({@code viewportX}, {@code viewportY}). A wall size of 0 means "use the size of the selected graphics device".
+ */
+public record SyncConfiguration(@NotNull SyncRole role,
+                                @NotNull InetAddress group,
+                                int port,
+                                @Nullable NetworkInterface networkInterface,
+                                double wallWidth,
+                                double wallHeight,
+                                double viewportX,
+                                double viewportY) {
+    private @NotNull static final Logger LOGGER = LogManager.getLogger(SyncConfiguration.class);
+
+    public static @NotNull SyncConfiguration standalone() {
+        return fromParameters(Map.of());
+    }
+
+    /**
+     * Builds the configuration from named command line parameters such as {@code --sync=follower},
+     * {@code --sync-group=239.255.42.99}, {@code --sync-port=4446}, {@code --sync-interface=lo},
+     * {@code --wall-width=3840}, {@code --wall-height=1080}, {@code --viewport-x=1920} and {@code --viewport-y=0}.
+     */
+    public static @NotNull SyncConfiguration fromParameters(@NotNull Map<String, String> parameters) {
+        SyncRole role;
+        try {
+            role = SyncRole.valueOf(parameters.getOrDefault("sync", "standalone").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException iae) {
+            LOGGER.error("Unknown sync role \"{}\"", parameters.get("sync"));
+            throw new IllegalArgumentException("Unknown sync role \"" + parameters.get("sync") + "\"", iae);
+        }
+
+        InetAddress group;
+        try {
+            group = InetAddress.getByName(parameters.getOrDefault("sync-group", Constants.SYNC_DEFAULT_GROUP));
+        } catch (UnknownHostException uhe) {
+            LOGGER.error("Could not resolve sync group \"{}\"", parameters.get("sync-group"));
+            throw new IllegalArgumentException("Could not resolve sync group \"" + parameters.get("sync-group") + "\"", uhe);
+        }
+
+        if (role != SyncRole.STANDALONE && !group.isMulticastAddress()) {
+            LOGGER.error("Sync group {} is not a multicast address", group);
+            throw new IllegalArgumentException("Sync group " + group + " is not a multicast address.");
+        }
+
+        int port;
+        try {
+            port = Integer.parseInt(parameters.getOrDefault("sync-port", String.valueOf(Constants.SYNC_DEFAULT_PORT)));
+        } catch (NumberFormatException nfe) {
+            LOGGER.error("Sync port is not an integer: \"{}\"", parameters.get("sync-port"));
+            throw new IllegalArgumentException("Sync port is not an integer: \"" + parameters.get("sync-port") + "\"", nfe);
+        }
+        if (port < 1 || port > 0xFFFF) {
+            LOGGER.error("Sync port {} is out of range", port);
+            throw new IllegalArgumentException("Sync port " + port + " is out of range.");
+        }
+
+        NetworkInterface networkInterface = null;
+        String networkInterfaceName = parameters.get("sync-interface");
+        if (networkInterfaceName != null) {
+            try {
+                networkInterface = NetworkInterface.getByName(networkInterfaceName);
+            } catch (SocketException se) {
+                LOGGER.error("Could not look up sync interface \"{}\"", networkInterfaceName);
+                throw new IllegalArgumentException("Could not look up sync interface \"" + networkInterfaceName + "\"", se);
+            }
+            if (networkInterface == null) {
+                LOGGER.error("Unknown sync interface \"{}\"", networkInterfaceName);
+                throw new IllegalArgumentException("Unknown sync interface \"" + networkInterfaceName + "\"");
+            }
+        }
+
+        return new SyncConfiguration(
+                role,
+                group,
+                port,
+                networkInterface,
+                parseNumber(parameters, "wall-width", 0),
+                parseNumber(parameters, "wall-height", 0),
+                parseNumber(parameters, "viewport-x", 0),
+                parseNumber(parameters, "viewport-y", 0));
+    }
+
+    private static double parseNumber(@NotNull Map<String, String> parameters, @NotNull String name, double defaultValue) {
+        String value = parameters.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException nfe) {
+            LOGGER.error("Parameter \"{}\" is not a number: \"{}\"", name, value);
+            throw new IllegalArgumentException("Parameter \"" + name + "\" is not a number: \"" + value + "\"", nfe);
+        }
+    }
+}
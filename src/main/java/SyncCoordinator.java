@@ -0,0 +1,91 @@
+import javafx.scene.shape.Rectangle;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.MulticastSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the simulation of a video wall. Every started segment is multicast right away, one datagram per bounce, and
+ * the current segment of every puck is repeated at a fixed rate so that a lost datagram is healed by the next
+ * snapshot. Only the snapshot traffic is bounded (by the number of pucks); bounce traffic grows with the puck speed.
+ */
+public class SyncCoordinator {
+    private @NotNull static final Logger LOGGER = LogManager.getLogger(SyncCoordinator.class);
+
+    private @NotNull final SyncConfiguration syncConfiguration;
+    private final double wallWidth;
+    private final double wallHeight;
+    private @NotNull final Map<Integer, PuckSegment> currentSegments = new ConcurrentHashMap<>();
+    private @Nullable MulticastSocket socket;
+    private @Nullable ScheduledExecutorService snapshotExecutor;
+    private long sessionId;
+
+    public SyncCoordinator(@NotNull SyncConfiguration syncConfiguration, @NotNull Rectangle boundingBox) {
+        this.syncConfiguration = syncConfiguration;
+        this.wallWidth = boundingBox.getWidth();
+        this.wallHeight = boundingBox.getHeight();
+    }
+
+    public void start() throws IOException {
+        // Lets followers notice a restarted or replaced coordinator, whose clock has a different origin.
+        this.sessionId = ThreadLocalRandom.current().nextLong();
+        this.socket = new MulticastSocket();
+        this.socket.setTimeToLive(Constants.SYNC_MULTICAST_TTL);
+        if (this.syncConfiguration.networkInterface() != null) {
+            this.socket.setNetworkInterface(this.syncConfiguration.networkInterface());
+        }
+
+        this.snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "sync-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.snapshotExecutor.scheduleAtFixedRate(
+                () -> this.send(List.copyOf(this.currentSegments.values())),
+                0,
+                Constants.SYNC_SNAPSHOT_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+
+        LOGGER.info("Coordinating video wall via {}:{}.",
+                this.syncConfiguration.group().getHostAddress(), this.syncConfiguration.port());
+    }
+
+    public void stop() {
+        if (this.snapshotExecutor != null) {
+            this.snapshotExecutor.shutdownNow();
+        }
+        if (this.socket != null) {
+            this.socket.close();
+        }
+    }
+
+    public void publishSegment(@NotNull PuckSegment segment) {
+        this.currentSegments.put(segment.puckId(), segment);
+        this.send(List.of(segment));
+    }
+
+    private void send(@NotNull List<PuckSegment> segments) {
+        if (this.socket == null || segments.isEmpty()) {
+            return;
+        }
+
+        byte[] data = new SyncMessage(this.sessionId, System.nanoTime(), this.wallWidth, this.wallHeight, segments).encode();
+        try {
+            this.socket.send(new DatagramPacket(data, data.length,
+                    this.syncConfiguration.group(), this.syncConfiguration.port()));
+        } catch (IOException ioe) {
+            LOGGER.warn("Failed to send sync message with {} segment(s).", segments.size(), ioe);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Point2D;
+import javafx.scene.shape.Rectangle;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders the pucks of a video wall from the segments multicast by a {@link SyncCoordinator}. The size of the wall is
+ * taken from the coordinator, only the viewport is configured locally.
+ * <p>
+ * The clock offset to the coordinator is estimated as the minimum of (receive time - send time) over the last
+ * {@link Constants#SYNC_CLOCK_OFFSET_WINDOW} datagrams. Whenever a segment runs out before its successor arrived,
+ * the bounce is predicted locally with the same {@link Geometrics} the coordinator uses, and the small error
+ * against the authoritative segment is blended away over {@link Constants#SYNC_CORRECTION_NANOS}.
+ */
+public class SyncFollower {
+    private @NotNull static final Logger LOGGER = LogManager.getLogger(SyncFollower.class);
+
+    private @NotNull final SyncConfiguration syncConfiguration;
+    private @NotNull final Rectangle boundingBox;
+    private final double configuredWallWidth;
+    private final double configuredWallHeight;
+    private @Nullable final Puck @NotNull [] pucks;
+
+    // Written by the receiver thread.
+    private @NotNull final Map<Integer, PuckSegment> receivedSegments = new ConcurrentHashMap<>();
+    private final long @NotNull [] offsetSamples = new long[Constants.SYNC_CLOCK_OFFSET_WINDOW];
+    private int offsetSampleCount = 0;
+    private volatile long clockOffsetNanos;
+    private volatile boolean clockOffsetKnown = false;
+    private long sessionId;
+    private volatile double wallWidth;
+    private volatile double wallHeight;
+    private volatile int sessionGeneration = 0;
+
+    // Only touched on the JavaFX application thread.
+    private int renderedSessionGeneration = 0;
+    private @Nullable final PuckSegment @NotNull [] appliedSegments;
+    private @Nullable final PuckSegment @NotNull [] renderedSegments;
+    private @NotNull final Point2D @NotNull [] corrections;
+    private final long @NotNull [] correctionStartNanos;
+
+    private @Nullable MulticastSocket socket;
+    private @Nullable AnimationTimer animationTimer;
+    private volatile boolean running = false;
+
+    /**
+     * @param pucks the pucks to move, indexed by their puck id; entries may be {@code null}.
+     */
+    public SyncFollower(@NotNull SyncConfiguration syncConfiguration, @NotNull Rectangle boundingBox,
+                        @Nullable Puck @NotNull ... pucks) {
+        this.syncConfiguration = syncConfiguration;
+        this.boundingBox = boundingBox;
+        this.configuredWallWidth = boundingBox.getWidth();
+        this.configuredWallHeight = boundingBox.getHeight();
+        this.wallWidth = boundingBox.getWidth();
+        this.wallHeight = boundingBox.getHeight();
+        this.pucks = pucks;
+        this.appliedSegments = new PuckSegment[pucks.length];
+        this.renderedSegments = new PuckSegment[pucks.length];
+        this.corrections = new Point2D[pucks.length];
+        Arrays.fill(this.corrections, Point2D.ZERO);
+        this.correctionStartNanos = new long[pucks.length];
+
+        // Hide pucks until the coordinator told us where they are.
+        for (Puck puck : pucks) {
+            if (puck != null) {
+                puck.getEncompassingRect().setVisible(false);
+            }
+        }
+    }
+
+    public void start() throws IOException {
+        this.socket = new MulticastSocket(this.syncConfiguration.port());
+        this.socket.joinGroup(new InetSocketAddress(this.syncConfiguration.group(), 0),
+                this.syncConfiguration.networkInterface());
+        this.running = true;
+
+        var receiverThread = new Thread(this::receive, "sync-follower");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+
+        this.animationTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                SyncFollower.this.render();
+            }
+        };
+        this.animationTimer.start();
+
+        LOGGER.info("Following video wall via {}:{}.",
+                this.syncConfiguration.group().getHostAddress(), this.syncConfiguration.port());
+    }
+
+    public void stop() {
+        this.running = false;
+        if (this.animationTimer != null) {
+            this.animationTimer.stop();
+        }
+        if (this.socket != null) {
+            this.socket.close();
+        }
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[SyncMessage.maxBytes(this.pucks.length)];
+
+        while (this.running) {
+            var packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                this.socket.receive(packet);
+            } catch (IOException ioe) {
+                if (this.running) {
+                    LOGGER.warn("Failed to receive sync message.", ioe);
+                }
+                continue;
+            }
+            long receiveNanos = System.nanoTime();
+
+            SyncMessage message = SyncMessage.decode(packet.getData(), packet.getLength());
+            if (message == null) {
+                LOGGER.debug("Discarding foreign datagram from {}.", packet.getSocketAddress());
+                continue;
+            }
+
+            if (this.sessionGeneration == 0 || message.sessionId() != this.sessionId) {
+                this.startSession(message.sessionId());
+            }
+
+            if (message.wallWidth() != this.wallWidth || message.wallHeight() != this.wallHeight) {
+                if (message.wallWidth() != this.configuredWallWidth || message.wallHeight() != this.configuredWallHeight) {
+                    LOGGER.warn("Coordinator simulates a {}x{} wall instead of the locally configured {}x{}; using the "
+                                    + "coordinator's.", message.wallWidth(), message.wallHeight(),
+                            this.configuredWallWidth, this.configuredWallHeight);
+                }
+                this.wallWidth = message.wallWidth();
+                this.wallHeight = message.wallHeight();
+            }
+
+            this.addOffsetSample(receiveNanos - message.sendNanos());
+            for (PuckSegment segment : message.segments()) {
+                if (segment.puckId() >= 0 && segment.puckId() < this.pucks.length) {
+                    // Keep the newest segment, datagrams may arrive out of order.
+                    this.receivedSegments.merge(segment.puckId(), segment,
+                            (known, received) -> (received.startNanos() >= known.startNanos()) ? received : known);
+                }
+            }
+        }
+    }
+
+    private void startSession(long sessionId) {
+        LOGGER.info("Following coordinator session {}.", Long.toHexString(sessionId));
+
+        // Neither segments nor clock samples of a previous coordinator are comparable to the new ones.
+        this.sessionId = sessionId;
+        this.clockOffsetKnown = false;
+        this.offsetSampleCount = 0;
+        this.receivedSegments.clear();
+        this.sessionGeneration++;
+    }
+
+    private void addOffsetSample(long sampleNanos) {
+        this.offsetSamples[this.offsetSampleCount % this.offsetSamples.length] = sampleNanos;
+        this.offsetSampleCount++;
+
+        // The sample with the least network delay is the best estimate of the offset between both clocks.
+        int validSamples = Math.min(this.offsetSampleCount, this.offsetSamples.length);
+        this.clockOffsetNanos = Arrays.stream(this.offsetSamples, 0, validSamples).min().orElse(sampleNanos);
+        this.clockOffsetKnown = true;
+    }
+
+    private void render() {
+        if (!this.clockOffsetKnown) {
+            return;
+        }
+
+        if (this.renderedSessionGeneration != this.sessionGeneration) {
+            this.renderedSessionGeneration = this.sessionGeneration;
+            Arrays.fill(this.appliedSegments, null);
+            Arrays.fill(this.renderedSegments, null);
+            Arrays.fill(this.corrections, Point2D.ZERO);
+        }
+
+        // Bounces have to be predicted against the coordinator's wall.
+        this.boundingBox.setWidth(this.wallWidth);
+        this.boundingBox.setHeight(this.wallHeight);
+
+        long localNanos = System.nanoTime();
+        long coordinatorNanos = localNanos - this.clockOffsetNanos;
+
+        for (int puckId = 0; puckId < this.pucks.length; puckId++) {
+            Puck puck = this.pucks[puckId];
+            if (puck == null) {
+                continue;
+            }
+
+            PuckSegment received = this.receivedSegments.get(puckId);
+            if (received != null && !received.equals(this.appliedSegments[puckId])) {
+                this.applySegment(puckId, received, localNanos, coordinatorNanos);
+            }
+
+            PuckSegment rendered = this.renderedSegments[puckId];
+            if (rendered == null) {
+                continue;
+            }
+
+            // Dead reckoning while the next segment has not arrived (yet).
+            rendered = this.advanceSegment(rendered, coordinatorNanos);
+            this.renderedSegments[puckId] = rendered;
+
+            Point2D position = rendered.positionAt(coordinatorNanos).add(this.currentCorrection(puckId, localNanos));
+            Rectangle rect = puck.getEncompassingRect();
+            rect.setWidth(rendered.width());
+            rect.setHeight(rendered.height());
+            rect.setX(position.getX());
+            rect.setY(position.getY());
+            rect.setVisible(true);
+        }
+    }
+
+    private void applySegment(int puckId, @NotNull PuckSegment segment, long localNanos, long coordinatorNanos) {
+        // The segment may already have ended (short corner moves, delayed snapshots).
+        PuckSegment current = this.advanceSegment(segment, coordinatorNanos);
+
+        PuckSegment rendered = this.renderedSegments[puckId];
+        if (rendered != null) {
+            // Blend from where the puck is drawn right now instead of jumping.
+            Point2D drawnPosition = rendered.positionAt(coordinatorNanos).add(this.currentCorrection(puckId, localNanos));
+            this.corrections[puckId] = drawnPosition.subtract(current.positionAt(coordinatorNanos));
+            this.correctionStartNanos[puckId] = localNanos;
+        }
+
+        this.appliedSegments[puckId] = segment;
+        this.renderedSegments[puckId] = current;
+    }
+
+    /**
+     * @return the segment (predicted if necessary) that follows {@code segment} and covers {@code coordinatorNanos}, or
+     * the last one that could be predicted.
+     */
+    private @NotNull PuckSegment advanceSegment(@NotNull PuckSegment segment, long coordinatorNanos) {
+        while (coordinatorNanos > segment.endNanos()) {
+            PuckSegment predicted = this.predictNextSegment(segment);
+            if (predicted == null) {
+                break;
+            }
+            segment = predicted;
+        }
+
+        return segment;
+    }
+
+    private @NotNull Point2D currentCorrection(int puckId, long localNanos) {
+        double remaining = 1.0 - (double) (localNanos - this.correctionStartNanos[puckId]) / Constants.SYNC_CORRECTION_NANOS;
+        return (remaining > 0) ? this.corrections[puckId].multiply(remaining) : Point2D.ZERO;
+    }
+
+    private @Nullable PuckSegment predictNextSegment(@NotNull PuckSegment segment) {
+        var incidentVector = new Point2D(segment.endX() - segment.startX(), segment.endY() - segment.startY());
+        double distance = incidentVector.magnitude();
+        if (distance == 0 || segment.durationNanos() <= 0) {
+            return null;
+        }
+
+        var rect = new Rectangle(segment.endX(), segment.endY(), segment.width(), segment.height());
+        try {
+            Point2D reflectionVector = Geometrics.getDeflectionVector(rect, incidentVector.normalize(), this.boundingBox);
+            double collisionT = Geometrics.getMinimalCollisionT(rect, reflectionVector, this.boundingBox);
+            Point2D collisionLTCoord = new Point2D(rect.getX(), rect.getY()).add(reflectionVector.multiply(collisionT));
+
+            double nanosPerPixel = segment.durationNanos() / distance;
+            return new PuckSegment(segment.puckId(),
+                    rect.getX(),
+                    rect.getY(),
+                    collisionLTCoord.getX(),
+                    collisionLTCoord.getY(),
+                    segment.width(),
+                    segment.height(),
+                    segment.endNanos(),
+                    (long) (collisionLTCoord.distance(rect.getX(), rect.getY()) * nanosPerPixel));
+        } catch (IllegalArgumentException iae) {
+            LOGGER.debug("Could not predict the segment following {}.", segment, iae);
+            return null;
+        }
+    }
+}
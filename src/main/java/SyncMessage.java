@@ -0,0 +1,68 @@
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datagram exchanged between coordinator and followers. It carries the session id of the coordinator (its clock
+ * is only meaningful within one session), the send time (coordinator clock) for clock offset estimation, the size
+ * of the wall the coordinator simulates and either the one segment that just started (bounce event) or the current
+ * segment of every puck (periodic snapshot).
+ */
+public record SyncMessage(long sessionId,
+                          long sendNanos,
+                          double wallWidth,
+                          double wallHeight,
+                          @NotNull List<PuckSegment> segments) {
+    private static final int MAGIC = 0x41464B53; // "AFKS"
+    private static final byte VERSION = 2;
+    private static final int HEADER_BYTES = Integer.BYTES + 1 + 2 * Long.BYTES + 2 * Double.BYTES + 1;
+
+    public static int maxBytes(int segmentCount) {
+        return HEADER_BYTES + segmentCount * PuckSegment.BYTES;
+    }
+
+    public byte @NotNull [] encode() {
+        var buffer = ByteBuffer.allocate(maxBytes(this.segments.size()));
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putLong(this.sessionId);
+        buffer.putLong(this.sendNanos);
+        buffer.putDouble(this.wallWidth);
+        buffer.putDouble(this.wallHeight);
+        buffer.put((byte) this.segments.size());
+        this.segments.forEach(segment -> segment.writeTo(buffer));
+
+        return buffer.array();
+    }
+
+    /**
+     * @return the decoded message or {@code null} if the datagram is not a (complete) screensaver sync message.
+     */
+    public static @Nullable SyncMessage decode(byte @NotNull [] data, int length) {
+        var buffer = ByteBuffer.wrap(data, 0, length);
+
+        try {
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                return null;
+            }
+
+            long sessionId = buffer.getLong();
+            long sendNanos = buffer.getLong();
+            double wallWidth = buffer.getDouble();
+            double wallHeight = buffer.getDouble();
+            int segmentCount = Byte.toUnsignedInt(buffer.get());
+            var segments = new ArrayList<PuckSegment>(segmentCount);
+            for (int i = 0; i < segmentCount; i++) {
+                segments.add(PuckSegment.readFrom(buffer));
+            }
+
+            return new SyncMessage(sessionId, sendNanos, wallWidth, wallHeight, segments);
+        } catch (BufferUnderflowException bue) {
+            return null;
+        }
+    }
+}
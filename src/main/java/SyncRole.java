@@ -0,0 +1,5 @@
+public enum SyncRole {
+    STANDALONE,
+    COORDINATOR,
+    FOLLOWER
+}